@@ -0,0 +1,670 @@
+package parkinglot;
+
+import parkinglot.enums.ParkingSpotType;
+import parkinglot.enums.Ticket;
+import parkinglot.enums.VehicleType;
+import parkinglot.exceptions.InvalidArgumentException;
+import parkinglot.exceptions.ParkingFailedException;
+import parkinglot.models.Level;
+import parkinglot.models.ParkingSpot;
+import parkinglot.models.Vehicle;
+import parkinglot.service.ParkingLot;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Multi-threaded stress and linearizability checks for ParkingLot.
+ * <p>
+ * Worker threads hammer parkVehicle, exitVehicle and getActiveTickets with randomized schedules while
+ * every call is recorded with its invocation and response stamps. After each round the recorded history
+ * and the quiescent lot are checked against the invariants below:
+ * <ul>
+ *     <li>no spot holds two vehicles at once and no ticket is issued or exited twice</li>
+ *     <li>the number of active tickets equals the number of occupied spots</li>
+ *     <li>every fee matches the tariff for the vehicle type and parked duration</li>
+ *     <li>getActiveTickets never reports a ticket that could not have been active during the read,
+ *     and never misses one that was active for the whole read</li>
+ *     <li>small histories have a valid sequential ordering (linearizability)</li>
+ * </ul>
+ * Run with {@code java -cp out parkinglot.ParkingLotStressTest [seed]}; exits with status 1 on any failure.
+ * @author Baidyanath
+ */
+public class ParkingLotStressTest {
+
+    private static final int LINEARIZABILITY_ROUNDS = 300;
+    private static final int LINEARIZABILITY_THREADS = 3;
+    private static final int LINEARIZABILITY_OPS_PER_THREAD = 4;
+
+    private static final int STRESS_ROUNDS = 5;
+    private static final int STRESS_THREADS = 8;
+    private static final int STRESS_OPS_PER_THREAD = 2000;
+
+    private enum OperationType { PARK, EXIT, SNAPSHOT }
+
+    /**
+     * A single recorded call against the parking lot.
+     */
+    private static final class Operation {
+        private final OperationType type;
+        private long invokedAt;
+        private long respondedAt;
+        private boolean succeeded;
+        private String error;
+
+        // PARK: the vehicle type requested and the ticket issued on success
+        private VehicleType vehicleType;
+        private String ticketNumber;
+        private String spotId;
+        private Ticket ticket;
+
+        // EXIT: the PARK operation that issued the ticket being exited
+        private Operation target;
+        private LocalDateTime exitTime;
+        private Double fees;
+
+        // SNAPSHOT: ticket numbers returned by getActiveTickets
+        private Set<String> activeTicketNumbers;
+
+        private Operation(OperationType type) {
+            this.type = type;
+        }
+    }
+
+    private final ParkingLot parkingLot = ParkingLot.getInstance();
+    private final AtomicLong clock = new AtomicLong();
+    private final List<String> failures = Collections.synchronizedList(new ArrayList<>());
+    private int levelCounter = 0;
+
+    /**
+     * Build a fresh level and register it with the parking lot.
+     */
+    private Level createLevel(int small, int medium, int large) throws InvalidArgumentException {
+        int floor = ++levelCounter;
+        List<ParkingSpot> spots = new ArrayList<>();
+        for (int i = 0; i < small; i++) {
+            spots.add(new ParkingSpot("L" + floor + "-S" + i, ParkingSpotType.SMALL));
+        }
+        for (int i = 0; i < medium; i++) {
+            spots.add(new ParkingSpot("L" + floor + "-M" + i, ParkingSpotType.MEDIUM));
+        }
+        for (int i = 0; i < large; i++) {
+            spots.add(new ParkingSpot("L" + floor + "-L" + i, ParkingSpotType.LARGE));
+        }
+        Level level = new Level(floor, spots);
+        parkingLot.addLevel(level);
+        return level;
+    }
+
+    /**
+     * Spot types by spot id, derived from the ids assigned in createLevel.
+     */
+    private static Map<String, ParkingSpotType> spotTypes(Level level) {
+        Map<String, ParkingSpotType> types = new HashMap<>();
+        for (ParkingSpot spot : level.getParkingSpots()) {
+            String id = spot.getSpotId();
+            char kind = id.charAt(id.lastIndexOf('-') + 1);
+            types.put(id, switch (kind) {
+                case 'S' -> ParkingSpotType.SMALL;
+                case 'M' -> ParkingSpotType.MEDIUM;
+                default -> ParkingSpotType.LARGE;
+            });
+        }
+        return types;
+    }
+
+    /**
+     * The spot type a vehicle type must be parked in.
+     */
+    private static ParkingSpotType requiredSpotType(VehicleType vehicleType) {
+        return switch (vehicleType) {
+            case BIKE -> ParkingSpotType.SMALL;
+            case CAR -> ParkingSpotType.MEDIUM;
+            case TRUCK -> ParkingSpotType.LARGE;
+        };
+    }
+
+    /**
+     * Independent copy of the tariff: first hour flat, each further full hour at the hourly rate.
+     */
+    private static double expectedFees(VehicleType vehicleType, LocalDateTime entryTime, LocalDateTime exitTime) {
+        long hours = Math.max(1, Duration.between(entryTime, exitTime).toHours());
+        return switch (vehicleType) {
+            case BIKE -> 10.0 + (hours - 1) * 5.0;
+            case CAR -> 15.0 + (hours - 1) * 10.0;
+            case TRUCK -> 20.0 + (hours - 1) * 15.0;
+        };
+    }
+
+    /**
+     * Randomly perturb the schedule so that calls from different threads interleave differently each run.
+     */
+    private static void jitter(Random random) {
+        switch (random.nextInt(4)) {
+            case 0 -> Thread.yield();
+            case 1 -> spin(random);
+            case 2 -> LockSupport.parkNanos(random.nextInt(20_000));
+            default -> { }
+        }
+    }
+
+    private static void spin(Random random) {
+        for (int i = random.nextInt(200); i > 0; i--) {
+            Thread.onSpinWait();
+        }
+    }
+
+    // ========== WORKLOAD ==========
+
+    /**
+     * Run one round of concurrent operations against the level and return the recorded history.
+     * In lockstep mode all threads meet at a barrier before every call, so that short rounds still overlap.
+     */
+    private List<Operation> runRound(String roundName, Level level, int threadCount, int opsPerThread, long seed,
+                                     boolean lockstep) throws InterruptedException {
+        List<Operation> history = Collections.synchronizedList(new ArrayList<>());
+        List<Operation> issued = Collections.synchronizedList(new ArrayList<>());
+        int ticketWindow = level.getParkingSpots().size() * 2;
+        CountDownLatch startGate = new CountDownLatch(1);
+        CyclicBarrier step = new CyclicBarrier(threadCount);
+        List<Thread> workers = new ArrayList<>();
+
+        for (int t = 0; t < threadCount; t++) {
+            int threadId = t;
+            Thread worker = new Thread(() -> {
+                Random random = new Random(seed * 31 + threadId);
+                try {
+                    startGate.await();
+                    for (int i = 0; i < opsPerThread; i++) {
+                        if (lockstep) {
+                            step.await();
+                            spin(random);
+                        } else {
+                            jitter(random);
+                        }
+                        int choice = random.nextInt(10);
+                        Operation parkTarget = null;
+                        if (choice >= 5 && choice < 8) {
+                            synchronized (issued) {
+                                if (!issued.isEmpty()) {
+                                    // Prefer recent tickets so exits race with each other and with re-parks
+                                    int window = Math.min(issued.size(), ticketWindow);
+                                    parkTarget = issued.get(issued.size() - 1 - random.nextInt(window));
+                                }
+                            }
+                        }
+
+                        Operation operation;
+                        if (parkTarget != null) {
+                            operation = exit(parkTarget, random);
+                        } else if (choice >= 8) {
+                            operation = snapshot();
+                        } else {
+                            String plate = roundName + "-T" + threadId + "-V" + i;
+                            operation = park(level, plate, VehicleType.values()[random.nextInt(3)]);
+                            if (operation.succeeded) {
+                                issued.add(operation);
+                            }
+                        }
+                        history.add(operation);
+                    }
+                } catch (Exception e) {
+                    failures.add(roundName + ": worker " + threadId + " crashed: " + e);
+                    // Release the other workers instead of leaving them parked at the barrier
+                    step.reset();
+                }
+            }, roundName + "-worker-" + t);
+            workers.add(worker);
+            worker.start();
+        }
+
+        startGate.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return new ArrayList<>(history);
+    }
+
+    private Operation park(Level level, String licensePlate, VehicleType vehicleType) throws InvalidArgumentException {
+        Vehicle vehicle = new Vehicle(licensePlate, vehicleType);
+        Operation operation = new Operation(OperationType.PARK);
+        operation.vehicleType = vehicleType;
+        operation.invokedAt = clock.incrementAndGet();
+        try {
+            operation.ticket = parkingLot.parkVehicle(level, vehicle);
+            operation.succeeded = true;
+        } catch (ParkingFailedException e) {
+            operation.succeeded = false;
+        } catch (Exception e) {
+            operation.error = e.toString();
+        }
+        operation.respondedAt = clock.incrementAndGet();
+
+        if (operation.ticket != null) {
+            operation.ticketNumber = operation.ticket.getTicketNumber();
+            operation.spotId = operation.ticket.getParkingSpot().getSpotId();
+        }
+        return operation;
+    }
+
+    private Operation exit(Operation parkOperation, Random random) {
+        Operation operation = new Operation(OperationType.EXIT);
+        operation.target = parkOperation;
+        operation.exitTime = parkOperation.ticket.getEntryTime().plusMinutes(random.nextInt(6 * 60));
+        operation.invokedAt = clock.incrementAndGet();
+        try {
+            operation.fees = parkingLot.exitVehicle(parkOperation.ticket, operation.exitTime);
+            operation.succeeded = true;
+        } catch (IllegalStateException e) {
+            // Ticket already exited; whether that was legal is decided by the history checks
+            operation.succeeded = false;
+        } catch (Exception e) {
+            operation.error = e.toString();
+        }
+        operation.respondedAt = clock.incrementAndGet();
+        return operation;
+    }
+
+    private Operation snapshot() {
+        Operation operation = new Operation(OperationType.SNAPSHOT);
+        operation.invokedAt = clock.incrementAndGet();
+        operation.activeTicketNumbers = new HashSet<>(parkingLot.getActiveTickets().keySet());
+        operation.respondedAt = clock.incrementAndGet();
+        operation.succeeded = true;
+        return operation;
+    }
+
+    // ========== HISTORY CHECKS ==========
+
+    /**
+     * Check per-operation results: no unexpected exceptions, unique ticket numbers, at most one successful
+     * exit per ticket and fees that match the tariff.
+     */
+    private void checkOperations(String roundName, List<Operation> history) {
+        Set<String> ticketNumbers = new HashSet<>();
+        Set<Operation> exitedTickets = new HashSet<>();
+        for (Operation operation : history) {
+            if (operation.error != null) {
+                failures.add(roundName + ": unexpected " + operation.type + " failure: " + operation.error);
+                continue;
+            }
+            if (operation.type == OperationType.PARK && operation.succeeded
+                    && !ticketNumbers.add(operation.ticketNumber)) {
+                failures.add(roundName + ": duplicate ticket number issued: " + operation.ticketNumber);
+            }
+            if (operation.type == OperationType.EXIT && operation.succeeded) {
+                Operation parked = operation.target;
+                if (!exitedTickets.add(parked)) {
+                    failures.add(roundName + ": ticket exited twice: " + parked.ticketNumber);
+                }
+                double expected = expectedFees(parked.vehicleType, parked.ticket.getEntryTime(), operation.exitTime);
+                if (operation.fees == null || operation.fees != expected) {
+                    failures.add(roundName + ": fees for " + parked.vehicleType + " ticket " + parked.ticketNumber
+                            + " were " + operation.fees + ", expected " + expected);
+                }
+            }
+        }
+    }
+
+    /**
+     * The successful exit of each ticket, keyed by the PARK operation that issued it.
+     */
+    private static Map<Operation, Operation> successfulExits(List<Operation> history) {
+        Map<Operation, Operation> exits = new HashMap<>();
+        for (Operation operation : history) {
+            if (operation.type == OperationType.EXIT && operation.succeeded) {
+                exits.put(operation.target, operation);
+            }
+        }
+        return exits;
+    }
+
+    /**
+     * Two tickets on the same spot must have tenures that can be ordered: one ticket's exit has to be able
+     * to take effect before the other ticket's park. Otherwise the spot held two vehicles at once.
+     */
+    private void checkSpotTenures(String roundName, List<Operation> history) {
+        Map<Operation, Operation> exits = successfulExits(history);
+        Map<String, List<Operation>> parksBySpot = new HashMap<>();
+        for (Operation operation : history) {
+            if (operation.type == OperationType.PARK && operation.succeeded) {
+                parksBySpot.computeIfAbsent(operation.spotId, k -> new ArrayList<>()).add(operation);
+            }
+        }
+
+        for (Map.Entry<String, List<Operation>> entry : parksBySpot.entrySet()) {
+            List<Operation> parks = entry.getValue();
+            for (int i = 0; i < parks.size(); i++) {
+                for (int j = i + 1; j < parks.size(); j++) {
+                    Operation first = parks.get(i);
+                    Operation second = parks.get(j);
+                    boolean firstCanPrecede = exitInvokedAt(exits, first) < second.respondedAt;
+                    boolean secondCanPrecede = exitInvokedAt(exits, second) < first.respondedAt;
+                    if (!firstCanPrecede && !secondCanPrecede) {
+                        failures.add(roundName + ": spot " + entry.getKey() + " held tickets "
+                                + first.ticketNumber + " and " + second.ticketNumber + " at the same time");
+                    }
+                }
+            }
+        }
+    }
+
+    private static long exitInvokedAt(Map<Operation, Operation> exits, Operation parkOperation) {
+        Operation exit = exits.get(parkOperation);
+        return exit == null ? Long.MAX_VALUE : exit.invokedAt;
+    }
+
+    /**
+     * getActiveTickets is a view over a concurrent map, so a read overlapping writes is only weakly
+     * consistent. Each reported ticket must have been possibly active during the read, and each ticket
+     * that was active for the entire read must be reported.
+     */
+    private void checkSnapshots(String roundName, List<Operation> history) {
+        Map<Operation, Operation> exits = successfulExits(history);
+        Map<String, Operation> parksByTicket = new HashMap<>();
+        for (Operation operation : history) {
+            if (operation.type == OperationType.PARK && operation.succeeded) {
+                parksByTicket.put(operation.ticketNumber, operation);
+            }
+        }
+
+        for (Operation read : history) {
+            if (read.type != OperationType.SNAPSHOT) {
+                continue;
+            }
+            for (String ticketNumber : read.activeTicketNumbers) {
+                Operation parked = parksByTicket.get(ticketNumber);
+                if (parked == null) {
+                    failures.add(roundName + ": getActiveTickets reported unknown ticket " + ticketNumber);
+                    continue;
+                }
+                Operation exit = exits.get(parked);
+                boolean possiblyActive = parked.invokedAt < read.respondedAt
+                        && (exit == null || exit.respondedAt > read.invokedAt);
+                if (!possiblyActive) {
+                    failures.add(roundName + ": getActiveTickets reported inactive ticket " + ticketNumber);
+                }
+            }
+            for (Operation parked : parksByTicket.values()) {
+                Operation exit = exits.get(parked);
+                boolean definitelyActive = parked.respondedAt < read.invokedAt
+                        && (exit == null || exit.invokedAt > read.respondedAt);
+                if (definitelyActive && !read.activeTicketNumbers.contains(parked.ticketNumber)) {
+                    failures.add(roundName + ": getActiveTickets missed active ticket " + parked.ticketNumber);
+                }
+            }
+        }
+    }
+
+    /**
+     * Wing &amp; Gong style search for a sequential ordering of the PARK and EXIT operations that respects
+     * real-time order and is legal for a lot that starts empty. Only feasible for small histories.
+     */
+    private void checkLinearizable(String roundName, List<Operation> history, Map<String, ParkingSpotType> spotTypes) {
+        List<Operation> operations = new ArrayList<>();
+        for (Operation operation : history) {
+            if (operation.type != OperationType.SNAPSHOT && operation.error == null) {
+                operations.add(operation);
+            }
+        }
+        if (operations.size() > 62) {
+            throw new IllegalArgumentException("History too large for linearizability check: " + operations.size());
+        }
+
+        if (!linearize(operations, 0L, new TreeMap<>(), spotTypes, new HashSet<>())) {
+            StringBuilder description = new StringBuilder(roundName + ": history is not linearizable:");
+            for (Operation operation : operations) {
+                description.append("\n    ").append(describe(operation));
+            }
+            failures.add(description.toString());
+        }
+    }
+
+    private boolean linearize(List<Operation> operations, long linearized, TreeMap<String, String> occupiedSpots,
+                              Map<String, ParkingSpotType> spotTypes, Set<String> deadEnds) {
+        if (Long.bitCount(linearized) == operations.size()) {
+            return true;
+        }
+
+        long earliestResponse = Long.MAX_VALUE;
+        for (int i = 0; i < operations.size(); i++) {
+            if ((linearized & (1L << i)) == 0) {
+                earliestResponse = Math.min(earliestResponse, operations.get(i).respondedAt);
+            }
+        }
+
+        // Any pending operation invoked before the earliest pending response may take effect next
+        for (int i = 0; i < operations.size(); i++) {
+            Operation operation = operations.get(i);
+            if ((linearized & (1L << i)) != 0 || operation.invokedAt > earliestResponse) {
+                continue;
+            }
+            TreeMap<String, String> next = apply(operation, occupiedSpots, spotTypes);
+            if (next == null) {
+                continue;
+            }
+            long nextLinearized = linearized | (1L << i);
+            if (deadEnds.add(nextLinearized + "|" + next)
+                    && linearize(operations, nextLinearized, next, spotTypes, deadEnds)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sequential specification of the parking lot. Returns the state after the operation, or null if the
+     * recorded result is not legal in the given state.
+     */
+    private static TreeMap<String, String> apply(Operation operation, TreeMap<String, String> occupiedSpots,
+                                                 Map<String, ParkingSpotType> spotTypes) {
+        if (operation.type == OperationType.PARK) {
+            ParkingSpotType required = requiredSpotType(operation.vehicleType);
+            if (!operation.succeeded) {
+                for (Map.Entry<String, ParkingSpotType> spot : spotTypes.entrySet()) {
+                    if (spot.getValue() == required && !occupiedSpots.containsKey(spot.getKey())) {
+                        return null;
+                    }
+                }
+                return occupiedSpots;
+            }
+            if (spotTypes.get(operation.spotId) != required || occupiedSpots.containsKey(operation.spotId)) {
+                return null;
+            }
+            TreeMap<String, String> next = new TreeMap<>(occupiedSpots);
+            next.put(operation.spotId, operation.ticketNumber);
+            return next;
+        }
+
+        Operation parked = operation.target;
+        boolean active = parked.ticketNumber.equals(occupiedSpots.get(parked.spotId));
+        if (!operation.succeeded) {
+            return active ? null : occupiedSpots;
+        }
+        if (!active || operation.fees == null
+                || operation.fees != expectedFees(parked.vehicleType, parked.ticket.getEntryTime(), operation.exitTime)) {
+            return null;
+        }
+        TreeMap<String, String> next = new TreeMap<>(occupiedSpots);
+        next.remove(parked.spotId);
+        return next;
+    }
+
+    private static String describe(Operation operation) {
+        String span = "[" + operation.invokedAt + ", " + operation.respondedAt + "] ";
+        if (operation.type == OperationType.PARK) {
+            return span + "park(" + operation.vehicleType + ") -> "
+                    + (operation.succeeded ? operation.ticketNumber + " @ " + operation.spotId : "no spot");
+        }
+        return span + "exit(" + operation.target.ticketNumber + ") -> "
+                + (operation.succeeded ? "$" + operation.fees : "ticket not active");
+    }
+
+    // ========== QUIESCENT CHECKS ==========
+
+    /**
+     * With no calls in flight, the lot must agree with the history: active tickets are exactly the issued
+     * tickets that were not exited, each on its own occupied spot, and no other spot is occupied.
+     */
+    private void checkQuiescentState(String roundName, List<Operation> history) {
+        Map<String, Ticket> activeTickets = new HashMap<>(parkingLot.getActiveTickets());
+        Map<Operation, Operation> exits = successfulExits(history);
+
+        Set<String> expectedActive = new HashSet<>();
+        for (Operation operation : history) {
+            if (operation.type == OperationType.PARK && operation.succeeded && !exits.containsKey(operation)) {
+                expectedActive.add(operation.ticketNumber);
+            }
+        }
+        if (!expectedActive.equals(activeTickets.keySet())) {
+            failures.add(roundName + ": active tickets " + activeTickets.keySet()
+                    + " do not match history " + expectedActive);
+        }
+
+        Set<ParkingSpot> ticketedSpots = new HashSet<>();
+        for (Map.Entry<String, Ticket> entry : activeTickets.entrySet()) {
+            Ticket ticket = entry.getValue();
+            if (!entry.getKey().equals(ticket.getTicketNumber())) {
+                failures.add(roundName + ": ticket " + ticket.getTicketNumber() + " registered as " + entry.getKey());
+            }
+            if (!ticketedSpots.add(ticket.getParkingSpot())) {
+                failures.add(roundName + ": spot " + ticket.getParkingSpot().getSpotId() + " has two active tickets");
+            }
+            if (!ticket.getParkingSpot().getIsOccupied() || ticket.getParkingSpot().getVehicle() == null) {
+                failures.add(roundName + ": ticket " + ticket.getTicketNumber() + " points at an empty spot");
+            }
+        }
+
+        int occupiedSpots = 0;
+        for (Level level : parkingLot.getLevels()) {
+            for (ParkingSpot spot : level.getParkingSpots()) {
+                if (spot.getIsOccupied()) {
+                    occupiedSpots++;
+                }
+            }
+        }
+        if (occupiedSpots != activeTickets.size()) {
+            failures.add(roundName + ": " + occupiedSpots + " occupied spots but "
+                    + activeTickets.size() + " active tickets");
+        }
+    }
+
+    /**
+     * Exit every remaining vehicle so the next round starts with an empty lot.
+     */
+    private void drain(String roundName) {
+        for (Ticket ticket : new ArrayList<>(parkingLot.getActiveTickets().values())) {
+            try {
+                parkingLot.exitVehicle(ticket, ticket.getEntryTime());
+            } catch (Exception e) {
+                failures.add(roundName + ": could not exit " + ticket.getTicketNumber() + " while draining: " + e);
+            }
+        }
+        for (Level level : parkingLot.getLevels()) {
+            for (ParkingSpot spot : level.getParkingSpots()) {
+                if (spot.getIsOccupied()) {
+                    failures.add(roundName + ": spot " + spot.getSpotId() + " still occupied after draining");
+                    spot.removeVehicle();
+                }
+            }
+        }
+        parkingLot.getActiveTickets().clear();
+    }
+
+    // ========== SUITES ==========
+
+    /**
+     * Many short rounds with few threads and a tiny level, so every history is small enough to be
+     * checked for linearizability exhaustively while spots are still heavily contended.
+     */
+    public void runLinearizabilityRounds(long seed) throws InvalidArgumentException, InterruptedException {
+        System.out.println("========== LINEARIZABILITY ROUNDS ==========");
+        int failuresBefore = failures.size();
+        for (int round = 0; round < LINEARIZABILITY_ROUNDS; round++) {
+            String roundName = "lin-" + round;
+            Level level = createLevel(2, 1, 1);
+            List<Operation> history = runRound(roundName, level, LINEARIZABILITY_THREADS,
+                    LINEARIZABILITY_OPS_PER_THREAD, seed + round, true);
+            checkOperations(roundName, history);
+            checkSpotTenures(roundName, history);
+            checkSnapshots(roundName, history);
+            checkLinearizable(roundName, history, spotTypes(level));
+            checkQuiescentState(roundName, history);
+            drain(roundName);
+        }
+        report(LINEARIZABILITY_ROUNDS + " rounds of " + LINEARIZABILITY_THREADS + " threads x "
+                + LINEARIZABILITY_OPS_PER_THREAD + " ops", failuresBefore);
+    }
+
+    /**
+     * A few long rounds with many threads, checking invariants that scale to large histories.
+     */
+    public void runStressRounds(long seed) throws InvalidArgumentException, InterruptedException {
+        System.out.println("========== STRESS ROUNDS ==========");
+        int failuresBefore = failures.size();
+        for (int round = 0; round < STRESS_ROUNDS; round++) {
+            String roundName = "stress-" + round;
+            Level level = createLevel(8, 8, 4);
+            List<Operation> history = runRound(roundName, level, STRESS_THREADS, STRESS_OPS_PER_THREAD, seed + round,
+                    false);
+            checkOperations(roundName, history);
+            checkSpotTenures(roundName, history);
+            checkSnapshots(roundName, history);
+            checkQuiescentState(roundName, history);
+            drain(roundName);
+        }
+        report(STRESS_ROUNDS + " rounds of " + STRESS_THREADS + " threads x " + STRESS_OPS_PER_THREAD + " ops",
+                failuresBefore);
+    }
+
+    private void report(String suite, int failuresBefore) {
+        int newFailures = failures.size() - failuresBefore;
+        if (newFailures == 0) {
+            System.out.println("✓ " + suite + " passed\n");
+        } else {
+            System.out.println("✗ " + suite + ": " + newFailures + " failure(s)\n");
+        }
+    }
+
+    /**
+     * Main entry point. An optional first argument fixes the random seed.
+     */
+    public static void main(String[] args) {
+        long seed = args.length > 0 ? Long.parseLong(args[0]) : System.nanoTime();
+        System.out.println("Seed: " + seed + "\n");
+
+        ParkingLotStressTest test = new ParkingLotStressTest();
+        try {
+            test.runLinearizabilityRounds(seed);
+            test.runStressRounds(seed);
+        } catch (Exception e) {
+            test.failures.add("Unexpected error in stress test: " + e);
+        }
+
+        if (test.failures.isEmpty()) {
+            System.out.println("✓ All concurrency checks passed");
+            return;
+        }
+        int shown = Math.min(test.failures.size(), 20);
+        for (String failure : test.failures.subList(0, shown)) {
+            System.out.println("✗ " + failure);
+        }
+        if (shown < test.failures.size()) {
+            System.out.println("... and " + (test.failures.size() - shown) + " more");
+        }
+        System.exit(1);
+    }
+}
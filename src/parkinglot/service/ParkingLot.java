@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Represents a parking lot.
@@ -23,6 +24,8 @@ public class ParkingLot {
     private final List<Level> levels = new CopyOnWriteArrayList<>();
     private final Map<String, Ticket> activeTickets = new ConcurrentHashMap<>();
     private final TicketService ticketService = new TicketService();
+    // Disambiguates tickets issued within the same millisecond
+    private final AtomicLong ticketSequence = new AtomicLong();
 
     private ParkingLot() { }
 
@@ -101,7 +104,7 @@ public class ParkingLot {
             throw new ParkingFailedException("Failed to park vehicle at spot: " + spot.getSpotId());
         }
 
-        Ticket ticket = new Ticket("TICKET-" + System.currentTimeMillis(), spot, LocalDateTime.now());
+        Ticket ticket = new Ticket("TICKET-" + System.currentTimeMillis() + "-" + ticketSequence.incrementAndGet(), spot, LocalDateTime.now());
         addActiveTicket(ticket.getTicketNumber(), ticket);
         return ticket;
     }